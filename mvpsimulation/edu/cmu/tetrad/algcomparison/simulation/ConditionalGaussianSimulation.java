@@ -94,7 +94,7 @@ public class ConditionalGaussianSimulation implements Simulation {
             dataSet.setName("" + (i + 1));
 
             if (parameters.getBoolean(Params.RANDOMIZE_COLUMNS)) {
-                dataSet = DataUtils.reorderColumns(dataSet);
+                dataSet = reorderColumns(dataSet);
             }
 
             dataSets.add(dataSet);
@@ -415,7 +415,58 @@ public class ConditionalGaussianSimulation implements Simulation {
         }
 
         boolean saveLatentVars = parameters.getBoolean(Params.SAVE_LATENT_VARS);
-        return saveLatentVars ? mixedData : DataUtils.restrictToMeasured(mixedData);
+        return saveLatentVars ? mixedData : restrictToMeasured(mixedData);
+    }
+
+    /**
+     * Like DataUtils.restrictToMeasured, but returns a view sharing the column arrays of the
+     * simulated data rather than a copy. Call copy() on the result if a copy is needed.
+     */
+    private static DataSet restrictToMeasured(DataSet mixedData) {
+        List<Node> measured = new ArrayList<>();
+
+        for (Node node : mixedData.getVariables()) {
+            if (node.getNodeType() == NodeType.MEASURED) {
+                measured.add(node);
+            }
+        }
+
+        return viewColumns(mixedData, measured);
+    }
+
+    /**
+     * Like DataUtils.reorderColumns, but returns a view sharing the column arrays of the
+     * simulated data rather than a copy.
+     */
+    private static DataSet reorderColumns(DataSet dataSet) {
+        List<Node> variables = new ArrayList<>(dataSet.getVariables());
+        Collections.shuffle(variables);
+        return viewColumns(dataSet, variables);
+    }
+
+    /**
+     * Returns a data set over the given variables, in the given order, whose box points at the
+     * same column arrays as the box of <code>dataSet</code>. Only the per-column references are
+     * allocated; the sample data itself is not copied.
+     */
+    private static DataSet viewColumns(DataSet dataSet, List<Node> variables) {
+        MixedDataBox box = (MixedDataBox) ((BoxDataSet) dataSet).getDataBox();
+        double[][] continuousData = box.getContinuousData();
+        int[][] discreteData = box.getDiscreteData();
+
+        double[][] viewContinuous = new double[variables.size()][];
+        int[][] viewDiscrete = new int[variables.size()][];
+
+        for (int j = 0; j < variables.size(); j++) {
+            int column = dataSet.getColumn(variables.get(j));
+            viewContinuous[j] = continuousData[column];
+            viewDiscrete[j] = discreteData[column];
+        }
+
+        MixedDataBox view = new MixedDataBox(variables, dataSet.getNumRows(), viewContinuous, viewDiscrete);
+        BoxDataSet viewData = new BoxDataSet(view, variables);
+        viewData.setName(dataSet.getName());
+        return viewData;
     }
 
     private double[] getBreakpoints(DataSet mixedData, DiscreteVariable _parent, int mixedParentColumn) {